@@ -9,11 +9,31 @@ repositories {
     mavenCentral()
 }
 
+// Classes using the final foreign memory API, packaged as a multi-release overlay for JDK 22+
+val java22: SourceSet by sourceSets.creating {
+    java.setSrcDirs(listOf("src/main/java22"))
+    compileClasspath += sourceSets.main.get().output + sourceSets.main.get().compileClasspath
+}
+
+tasks.named<JavaCompile>(java22.compileJavaTaskName) {
+    javaCompiler.set(javaToolchains.compilerFor {
+        languageVersion.set(JavaLanguageVersion.of(22))
+    })
+}
+
 tasks.jar {
     archiveClassifier.set("beta")
+
+    manifest {
+        attributes["Multi-Release"] = "true"
+    }
+
+    into("META-INF/versions/22") {
+        from(java22.output)
+    }
 }
 
 dependencies {
     compileOnly("org.jetbrains:annotations:26.0.2-1")
     annotationProcessor("org.jetbrains:annotations:26.0.2-1")
-}
\ No newline at end of file
+}
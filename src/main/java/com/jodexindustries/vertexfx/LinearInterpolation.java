@@ -1,13 +1,17 @@
 package com.jodexindustries.vertexfx;
 
+import com.jodexindustries.vertexfx.curve.Curve;
+import com.jodexindustries.vertexfx.curve.PointConsumer;
+import com.jodexindustries.vertexfx.geom.BoundingBox;
 import com.jodexindustries.vertexfx.geom.Point3D;
+import com.jodexindustries.vertexfx.geom.ShapeMath;
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.ArrayList;
 import java.util.List;
 
-public record LinearInterpolation(Point3D start, Point3D end, double distance) {
+public record LinearInterpolation(Point3D start, Point3D end, double distance) implements Curve {
 
     public LinearInterpolation(Point3D start, Point3D end) {
         this(start, end, start.distance(end));
@@ -18,6 +22,41 @@ public record LinearInterpolation(Point3D start, Point3D end, double distance) {
         return start.lerp(end, t);
     }
 
+    @Override
+    public @NotNull Point3D point(double t) {
+        return getPoint(t);
+    }
+
+    @Override
+    public void point(double t, int index, @NotNull PointConsumer out) {
+        out.accept(index,
+                ShapeMath.lerp(start.x(), end.x(), t),
+                ShapeMath.lerp(start.y(), end.y(), t),
+                ShapeMath.lerp(start.z(), end.z(), t)
+        );
+    }
+
+    @Override
+    public @NotNull Point3D derivative(double t) {
+        return end.subtract(start);
+    }
+
+    @Override
+    public @NotNull Point3D secondDerivative(double t) {
+        return new Point3D(0, 0, 0);
+    }
+
+    @Override
+    public double maxSecondDerivative(double from, double to) {
+        return 0;
+    }
+
+    @Override
+    @Contract(" -> new")
+    public @NotNull BoundingBox bounds() {
+        return BoundingBox.of(start, end);
+    }
+
     public @NotNull List<Point3D> generatePoints(double step) {
         List<Point3D> list = new ArrayList<>();
         for (double t = 0; t < 1; t += step) {
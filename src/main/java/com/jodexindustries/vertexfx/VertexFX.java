@@ -1,6 +1,8 @@
 package com.jodexindustries.vertexfx;
 
+import com.jodexindustries.vertexfx.geom.BoundingBox;
 import com.jodexindustries.vertexfx.geom.Point3D;
+import com.jodexindustries.vertexfx.geom.ShapeMath;
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
 
@@ -18,14 +20,27 @@ public class VertexFX {
      */
     @Contract("_, _, _, _, _ -> new")
     public static @NotNull Point3D circle(double cx, double cy, double cz, double r, double t) {
-        double angle = t * 2 * Math.PI;
         return new Point3D(
-                cx + r * Math.cos(angle),
+                ShapeMath.ellipseX(cx, r, t),
                 cy,
-                cz + r * Math.sin(angle)
+                ShapeMath.ellipseZ(cz, r, t)
         );
     }
 
+    /**
+     * Computes the bounds of {@link #circle(double, double, double, double, double)} for t in range [0,1].
+     *
+     * @param cx center X coordinate
+     * @param cy center Y coordinate
+     * @param cz center Z coordinate
+     * @param r  radius of the circle
+     * @return bounding box of the whole circle
+     */
+    @Contract("_, _, _, _ -> new")
+    public static @NotNull BoundingBox circleBounds(double cx, double cy, double cz, double r) {
+        return BoundingBox.around(new Point3D(cx, cy, cz), r, 0, r);
+    }
+
     /**
      * Generates a point on an ellipse based on t in range [0,1].
      *
@@ -39,14 +54,28 @@ public class VertexFX {
      */
     @Contract("_, _, _, _, _, _ -> new")
     public static @NotNull Point3D ellipse(double cx, double cy, double cz, double a, double b, double t) {
-        double angle = t * 2 * Math.PI;
         return new Point3D(
-                cx + a * Math.cos(angle),
+                ShapeMath.ellipseX(cx, a, t),
                 cy,
-                cz + b * Math.sin(angle)
+                ShapeMath.ellipseZ(cz, b, t)
         );
     }
 
+    /**
+     * Computes the bounds of {@link #ellipse(double, double, double, double, double, double)} for t in range [0,1].
+     *
+     * @param cx center X coordinate
+     * @param cy center Y coordinate
+     * @param cz center Z coordinate
+     * @param a  horizontal radius
+     * @param b  vertical radius
+     * @return bounding box of the whole ellipse
+     */
+    @Contract("_, _, _, _, _ -> new")
+    public static @NotNull BoundingBox ellipseBounds(double cx, double cy, double cz, double a, double b) {
+        return BoundingBox.around(new Point3D(cx, cy, cz), a, 0, b);
+    }
+
     /**
      * Generates a 3D spiral position.
      *
@@ -60,11 +89,29 @@ public class VertexFX {
      */
     @Contract("_, _, _, _, _, _ -> new")
     public static @NotNull Point3D spiral(double cx, double cy, double cz, double r, double h, double t) {
-        double angle = t * 10 * Math.PI;
         return new Point3D(
-                cx + r * Math.cos(angle),
-                cy + h * t,
-                cz + r * Math.sin(angle)
+                ShapeMath.spiralX(cx, r, t),
+                ShapeMath.spiralY(cy, h, t),
+                ShapeMath.spiralZ(cz, r, t)
+        );
+    }
+
+    /**
+     * Computes the bounds of {@link #spiral(double, double, double, double, double, double)} for t in range [0,1].
+     *
+     * @param cx center X coordinate
+     * @param cy center Y coordinate
+     * @param cz center Z coordinate
+     * @param r  spiral radius
+     * @param h  total height change
+     * @return bounding box of the whole spiral
+     */
+    @Contract("_, _, _, _, _ -> new")
+    public static @NotNull BoundingBox spiralBounds(double cx, double cy, double cz, double r, double h) {
+        r = Math.abs(r);
+        return new BoundingBox(
+                cx - r, Math.min(cy, cy + h), cz - r,
+                cx + r, Math.max(cy, cy + h), cz + r
         );
     }
 
@@ -104,14 +151,27 @@ public class VertexFX {
      */
     @Contract("_, _, _, _ -> new")
     public static @NotNull Point3D bezier(Point3D p0, Point3D p1, Point3D p2, double t) {
-        double u = 1 - t;
         return new Point3D(
-                u * u * p0.x() + 2 * u * t * p1.x() + t * t * p2.x(),
-                u * u * p0.y() + 2 * u * t * p1.y() + t * t * p2.y(),
-                u * u * p0.z() + 2 * u * t * p1.z() + t * t * p2.z()
+                ShapeMath.bezier(p0.x(), p1.x(), p2.x(), t),
+                ShapeMath.bezier(p0.y(), p1.y(), p2.y(), t),
+                ShapeMath.bezier(p0.z(), p1.z(), p2.z(), t)
         );
     }
 
+    /**
+     * Computes conservative bounds of {@link #bezier(Point3D, Point3D, Point3D, double)} for t in range [0,1].
+     * The curve always stays inside the hull of its control points.
+     *
+     * @param p0 start point
+     * @param p1 control point
+     * @param p2 end point
+     * @return bounding box of the control points
+     */
+    @Contract("_, _, _ -> new")
+    public static @NotNull BoundingBox bezierBounds(Point3D p0, Point3D p1, Point3D p2) {
+        return BoundingBox.of(p0, p1, p2);
+    }
+
     /**
      * Catmull-Rom spline interpolation generating a smooth curve through the points.
      *
@@ -124,14 +184,30 @@ public class VertexFX {
      */
     @Contract("_, _, _, _, _ -> new")
     public static @NotNull Point3D catmullRom(Point3D p0, Point3D p1, Point3D p2, Point3D p3, double t) {
-        double t2 = t * t, t3 = t2 * t;
         return new Point3D(
-                0.5 * ((2 * p1.x()) + (-p0.x() + p2.x()) * t + (2 * p0.x() - 5 * p1.x() + 4 * p2.x() - p3.x()) * t2 + (-p0.x() + 3 * p1.x() - 3 * p2.x() + p3.x()) * t3),
-                0.5 * ((2 * p1.y()) + (-p0.y() + p2.y()) * t + (2 * p0.y() - 5 * p1.y() + 4 * p2.y() - p3.y()) * t2 + (-p0.y() + 3 * p1.y() - 3 * p2.y() + p3.y()) * t3),
-                0.5 * ((2 * p1.z()) + (-p0.z() + p2.z()) * t + (2 * p0.z() - 5 * p1.z() + 4 * p2.z() - p3.z()) * t2 + (-p0.z() + 3 * p1.z() - 3 * p2.z() + p3.z()) * t3)
+                ShapeMath.catmullRom(p0.x(), p1.x(), p2.x(), p3.x(), t),
+                ShapeMath.catmullRom(p0.y(), p1.y(), p2.y(), p3.y(), t),
+                ShapeMath.catmullRom(p0.z(), p1.z(), p2.z(), p3.z(), t)
         );
     }
 
+    /**
+     * Computes conservative bounds of {@link #catmullRom(Point3D, Point3D, Point3D, Point3D, double)} for t in range [0,1].
+     * The segment is converted to its equivalent cubic Bezier, whose control points enclose it.
+     *
+     * @param p0 previous control point
+     * @param p1 start point of the segment
+     * @param p2 end point of the segment
+     * @param p3 next control point
+     * @return bounding box of the segment
+     */
+    @Contract("_, _, _, _ -> new")
+    public static @NotNull BoundingBox catmullRomBounds(Point3D p0, Point3D p1, Point3D p2, Point3D p3) {
+        Point3D c1 = p1.add(p2.subtract(p0).divide(6));
+        Point3D c2 = p2.subtract(p3.subtract(p1).divide(6));
+        return BoundingBox.of(p1, c1, c2, p2);
+    }
+
     /**
      * Creates an arc between two points by using a Bézier curve with midpoint raised by height.
      *
@@ -145,4 +221,18 @@ public class VertexFX {
         Point3D mid = start.add(end).multiply(0.5).add(new Point3D(0, height, 0));
         return bezier(start, mid, end, t);
     }
+
+    /**
+     * Computes conservative bounds of {@link #arc(Point3D, Point3D, double, double)} for t in range [0,1].
+     *
+     * @param start  starting position
+     * @param end    ending position
+     * @param height height of the arc's peak
+     * @return bounding box of the whole arc
+     */
+    @Contract("_, _, _ -> new")
+    public static @NotNull BoundingBox arcBounds(Point3D start, Point3D end, double height) {
+        Point3D mid = start.add(end).multiply(0.5).add(new Point3D(0, height, 0));
+        return bezierBounds(start, mid, end);
+    }
 }
@@ -0,0 +1,48 @@
+package com.jodexindustries.vertexfx.curve;
+
+import com.jodexindustries.vertexfx.VertexFX;
+import com.jodexindustries.vertexfx.geom.BoundingBox;
+import com.jodexindustries.vertexfx.geom.Point3D;
+import com.jodexindustries.vertexfx.geom.ShapeMath;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Quadratic Bezier curve between 3 points.
+ */
+public record BezierCurve(Point3D p0, Point3D p1, Point3D p2) implements Curve {
+
+    @Override
+    public @NotNull Point3D point(double t) {
+        return VertexFX.bezier(p0, p1, p2, t);
+    }
+
+    @Override
+    public void point(double t, int index, @NotNull PointConsumer out) {
+        out.accept(index,
+                ShapeMath.bezier(p0.x(), p1.x(), p2.x(), t),
+                ShapeMath.bezier(p0.y(), p1.y(), p2.y(), t),
+                ShapeMath.bezier(p0.z(), p1.z(), p2.z(), t)
+        );
+    }
+
+    @Override
+    public @NotNull Point3D derivative(double t) {
+        return p1.subtract(p0).multiply(2 * (1 - t)).add(p2.subtract(p1).multiply(2 * t));
+    }
+
+    @Override
+    public @NotNull Point3D secondDerivative(double t) {
+        return p2.subtract(p1.multiply(2)).add(p0).multiply(2);
+    }
+
+    @Override
+    public double maxSecondDerivative(double from, double to) {
+        // constant for a quadratic curve
+        return secondDerivative(0).length();
+    }
+
+    @Override
+    public @NotNull BoundingBox bounds() {
+        return VertexFX.bezierBounds(p0, p1, p2);
+    }
+}
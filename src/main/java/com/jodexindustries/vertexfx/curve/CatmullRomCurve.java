@@ -0,0 +1,60 @@
+package com.jodexindustries.vertexfx.curve;
+
+import com.jodexindustries.vertexfx.VertexFX;
+import com.jodexindustries.vertexfx.geom.BoundingBox;
+import com.jodexindustries.vertexfx.geom.Point3D;
+import com.jodexindustries.vertexfx.geom.ShapeMath;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Catmull-Rom spline segment between p1 and p2.
+ */
+public record CatmullRomCurve(Point3D p0, Point3D p1, Point3D p2, Point3D p3) implements Curve {
+
+    @Override
+    public @NotNull Point3D point(double t) {
+        return VertexFX.catmullRom(p0, p1, p2, p3, t);
+    }
+
+    @Override
+    public void point(double t, int index, @NotNull PointConsumer out) {
+        out.accept(index,
+                ShapeMath.catmullRom(p0.x(), p1.x(), p2.x(), p3.x(), t),
+                ShapeMath.catmullRom(p0.y(), p1.y(), p2.y(), p3.y(), t),
+                ShapeMath.catmullRom(p0.z(), p1.z(), p2.z(), p3.z(), t)
+        );
+    }
+
+    @Override
+    public @NotNull Point3D derivative(double t) {
+        return linear().add(quadratic().multiply(2 * t)).add(cubic().multiply(3 * t * t)).multiply(0.5);
+    }
+
+    @Override
+    public @NotNull Point3D secondDerivative(double t) {
+        return quadratic().multiply(2).add(cubic().multiply(6 * t)).multiply(0.5);
+    }
+
+    @Override
+    public double maxSecondDerivative(double from, double to) {
+        // C'' is linear in t, so its magnitude peaks at one of the range ends
+        return Math.max(secondDerivative(from).length(), secondDerivative(to).length());
+    }
+
+    @Override
+    public @NotNull BoundingBox bounds() {
+        return VertexFX.catmullRomBounds(p0, p1, p2, p3);
+    }
+
+    private @NotNull Point3D linear() {
+        return p2.subtract(p0);
+    }
+
+    private @NotNull Point3D quadratic() {
+        return p0.multiply(2).subtract(p1.multiply(5)).add(p2.multiply(4)).subtract(p3);
+    }
+
+    private @NotNull Point3D cubic() {
+        return p1.subtract(p2).multiply(3).subtract(p0).add(p3);
+    }
+}
@@ -0,0 +1,196 @@
+package com.jodexindustries.vertexfx.curve;
+
+import com.jodexindustries.vertexfx.VertexFX;
+import com.jodexindustries.vertexfx.geom.BoundingBox;
+import com.jodexindustries.vertexfx.geom.Point3D;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * A parametric curve defined for t in range [0,1].
+ */
+public interface Curve {
+
+    /**
+     * Returns the position on the curve.
+     *
+     * @param t normalized time [0..1]
+     * @return position on the curve
+     */
+    @NotNull Point3D point(double t);
+
+    /**
+     * Writes the position on the curve as raw coordinates without creating a point.
+     *
+     * @param t     normalized time [0..1]
+     * @param index sample index passed to the consumer
+     * @param out   receives the coordinates
+     */
+    default void point(double t, int index, @NotNull PointConsumer out) {
+        Point3D p = point(t);
+        out.accept(index, p.x(), p.y(), p.z());
+    }
+
+    /**
+     * Returns the first derivative (tangent) of the curve with respect to t.
+     *
+     * @param t normalized time [0..1]
+     * @return tangent vector
+     */
+    @NotNull Point3D derivative(double t);
+
+    /**
+     * Returns the second derivative of the curve with respect to t.
+     *
+     * @param t normalized time [0..1]
+     * @return curvature vector
+     */
+    @NotNull Point3D secondDerivative(double t);
+
+    /**
+     * Returns an upper bound of the second derivative's magnitude for t in range [from, to].
+     * {@link CurveQuery} uses it to bound how far the curve strays from its sampled chords.
+     * The default is {@link Double#POSITIVE_INFINITY}, meaning no bound is known.
+     *
+     * @param from start of the range
+     * @param to   end of the range
+     * @return an upper bound of |C''(t)| over the range
+     */
+    default double maxSecondDerivative(double from, double to) {
+        return Double.POSITIVE_INFINITY;
+    }
+
+    /**
+     * Returns conservative bounds of the whole curve.
+     *
+     * @return bounding box of the curve
+     */
+    @NotNull BoundingBox bounds();
+
+    /**
+     * Returns a lazy spliterator sampling the curve at t = index / samples.
+     *
+     * @param samples number of points
+     * @return a sized spliterator splitting by index ranges
+     */
+    @Contract("_ -> new")
+    default @NotNull PointSpliterator spliterator(int samples) {
+        return new PointSpliterator(this, samples);
+    }
+
+    /**
+     * Returns a lazy stream of points sampled at t = index / samples.
+     * Points are only generated when consumed, use {@link Stream#parallel()} to split the work.
+     *
+     * @param samples number of points
+     * @return a sequential stream of points
+     */
+    @Contract("_ -> new")
+    default @NotNull Stream<Point3D> stream(int samples) {
+        return StreamSupport.stream(spliterator(samples), false);
+    }
+
+    /**
+     * Samples the curve at t = index / samples and passes the raw coordinates to the action.
+     *
+     * @param samples number of points
+     * @param action  receives every point
+     */
+    default void forEachPoint(int samples, @NotNull PointConsumer action) {
+        spliterator(samples).forEachRemaining(action);
+    }
+
+    /**
+     * Creates a circle in the XZ plane.
+     *
+     * @param cx center X coordinate
+     * @param cy center Y coordinate
+     * @param cz center Z coordinate
+     * @param r  radius of the circle
+     * @return the curve
+     * @see VertexFX#circle(double, double, double, double, double)
+     */
+    @Contract("_, _, _, _ -> new")
+    static @NotNull Curve circle(double cx, double cy, double cz, double r) {
+        return new EllipseCurve(cx, cy, cz, r, r);
+    }
+
+    /**
+     * Creates an ellipse in the XZ plane.
+     *
+     * @param cx center X coordinate
+     * @param cy center Y coordinate
+     * @param cz center Z coordinate
+     * @param a  horizontal radius
+     * @param b  vertical radius
+     * @return the curve
+     * @see VertexFX#ellipse(double, double, double, double, double, double)
+     */
+    @Contract("_, _, _, _, _ -> new")
+    static @NotNull Curve ellipse(double cx, double cy, double cz, double a, double b) {
+        return new EllipseCurve(cx, cy, cz, a, b);
+    }
+
+    /**
+     * Creates a spiral rising along Y.
+     *
+     * @param cx center X coordinate
+     * @param cy center Y coordinate
+     * @param cz center Z coordinate
+     * @param r  spiral radius
+     * @param h  total height change
+     * @return the curve
+     * @see VertexFX#spiral(double, double, double, double, double, double)
+     */
+    @Contract("_, _, _, _, _ -> new")
+    static @NotNull Curve spiral(double cx, double cy, double cz, double r, double h) {
+        return new SpiralCurve(cx, cy, cz, r, h);
+    }
+
+    /**
+     * Creates a quadratic Bezier curve.
+     *
+     * @param p0 start point
+     * @param p1 control point
+     * @param p2 end point
+     * @return the curve
+     * @see VertexFX#bezier(Point3D, Point3D, Point3D, double)
+     */
+    @Contract("_, _, _ -> new")
+    static @NotNull Curve bezier(Point3D p0, Point3D p1, Point3D p2) {
+        return new BezierCurve(p0, p1, p2);
+    }
+
+    /**
+     * Creates a Catmull-Rom spline segment.
+     *
+     * @param p0 previous control point
+     * @param p1 start point of the segment
+     * @param p2 end point of the segment
+     * @param p3 next control point
+     * @return the curve
+     * @see VertexFX#catmullRom(Point3D, Point3D, Point3D, Point3D, double)
+     */
+    @Contract("_, _, _, _ -> new")
+    static @NotNull Curve catmullRom(Point3D p0, Point3D p1, Point3D p2, Point3D p3) {
+        return new CatmullRomCurve(p0, p1, p2, p3);
+    }
+
+    /**
+     * Creates an arc between two points.
+     *
+     * @param start  starting position
+     * @param end    ending position
+     * @param height height of the arc's peak
+     * @return the curve
+     * @see VertexFX#arc(Point3D, Point3D, double, double)
+     */
+    @Contract("_, _, _ -> new")
+    static @NotNull Curve arc(Point3D start, Point3D end, double height) {
+        Point3D mid = start.add(end).multiply(0.5).add(new Point3D(0, height, 0));
+        return new BezierCurve(start, mid, end);
+    }
+}
@@ -0,0 +1,254 @@
+package com.jodexindustries.vertexfx.curve;
+
+import com.jodexindustries.vertexfx.geom.BoundingBox;
+import com.jodexindustries.vertexfx.geom.Point3D;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Answers proximity queries against a {@link Curve} without sampling it on every call.
+ * <p>
+ * The curve is sampled once into a lookup table of evenly spaced t values. Each segment
+ * between two samples gets a bounding box, which is used to skip segments that cannot
+ * contain a better answer. The remaining segments are refined with Newton iterations.
+ * <p>
+ * The boxes are padded using {@link Curve#maxSecondDerivative(double, double)}. Curves that do not
+ * provide that bound are never pruned: every segment is refined, which is slower, and a curve that
+ * oscillates several times within one segment may still report a local rather than global answer.
+ * <p>
+ * Instances are immutable and can be shared between threads.
+ */
+public final class CurveQuery {
+
+    public static final int DEFAULT_SEGMENTS = 64;
+
+    private static final int NEWTON_ITERATIONS = 8;
+
+    private static final int BISECTION_ITERATIONS = 40;
+
+    private static final double EPSILON = 1e-12;
+
+    private final Curve curve;
+
+    private final int segments;
+
+    private final double[] xs, ys, zs;
+
+    /**
+     * Segment bounds, 6 values per segment: minX, minY, minZ, maxX, maxY, maxZ.
+     */
+    private final double[] boxes;
+
+    private final BoundingBox bounds;
+
+    public CurveQuery(@NotNull Curve curve) {
+        this(curve, DEFAULT_SEGMENTS);
+    }
+
+    /**
+     * Builds the lookup table for a curve.
+     *
+     * @param curve    the curve to query
+     * @param segments number of lookup table segments, higher values cost more memory
+     *                 but reject more segments per query
+     */
+    public CurveQuery(@NotNull Curve curve, int segments) {
+        if (segments < 1)
+            throw new IllegalArgumentException("Segments must be positive");
+
+        this.curve = curve;
+        this.segments = segments;
+        this.xs = new double[segments + 1];
+        this.ys = new double[segments + 1];
+        this.zs = new double[segments + 1];
+        this.boxes = new double[segments * 6];
+
+        for (int i = 0; i <= segments; i++) {
+            Point3D p = curve.point(t(i));
+            xs[i] = p.x();
+            ys[i] = p.y();
+            zs[i] = p.z();
+        }
+
+        double h = 1.0 / segments;
+        for (int i = 0; i < segments; i++) {
+            // A curve deviates from its chord by at most max|C''| * h^2 / 8.
+            // Without a known bound the pad is infinite and the segment is never pruned.
+            double pad = curve.maxSecondDerivative(t(i), t(i + 1)) * h * h / 8;
+
+            int o = i * 6;
+            boxes[o] = Math.min(xs[i], xs[i + 1]) - pad;
+            boxes[o + 1] = Math.min(ys[i], ys[i + 1]) - pad;
+            boxes[o + 2] = Math.min(zs[i], zs[i + 1]) - pad;
+            boxes[o + 3] = Math.max(xs[i], xs[i + 1]) + pad;
+            boxes[o + 4] = Math.max(ys[i], ys[i + 1]) + pad;
+            boxes[o + 5] = Math.max(zs[i], zs[i + 1]) + pad;
+        }
+
+        this.bounds = curve.bounds();
+    }
+
+    public @NotNull Curve curve() {
+        return curve;
+    }
+
+    /**
+     * Finds the parameter of the point on the curve closest to p.
+     *
+     * @param p the query point
+     * @return t in range [0,1]
+     */
+    public double closestT(@NotNull Point3D p) {
+        double px = p.x(), py = p.y(), pz = p.z();
+
+        int best = 0;
+        double bestDist = Double.POSITIVE_INFINITY;
+        for (int i = 0; i <= segments; i++) {
+            double d = distanceSquared(i, px, py, pz);
+            if (d < bestDist) {
+                bestDist = d;
+                best = i;
+            }
+        }
+
+        double bestT = t(best);
+        for (int i = 0; i < segments; i++) {
+            if (boxDistanceSquared(i, px, py, pz) >= bestDist) continue;
+
+            double t = refine(i, p);
+            double d = curve.point(t).subtract(p).lengthSquared();
+            if (d < bestDist) {
+                bestDist = d;
+                bestT = t;
+            }
+        }
+
+        return bestT;
+    }
+
+    /**
+     * Finds the point on the curve closest to p.
+     *
+     * @param p the query point
+     * @return closest position on the curve
+     */
+    @Contract("_ -> new")
+    public @NotNull Point3D closestPoint(@NotNull Point3D p) {
+        return curve.point(closestT(p));
+    }
+
+    /**
+     * Computes the distance from p to the curve.
+     *
+     * @param p the query point
+     * @return the shortest distance to the curve
+     */
+    public double distance(@NotNull Point3D p) {
+        return closestPoint(p).distance(p);
+    }
+
+    /**
+     * Checks whether any part of the curve lies inside a sphere.
+     *
+     * @param center the sphere center
+     * @param radius the sphere radius
+     * @return true if the curve touches the sphere
+     */
+    public boolean intersects(@NotNull Point3D center, double radius) {
+        if (!bounds.intersects(center, radius)) return false;
+
+        double cx = center.x(), cy = center.y(), cz = center.z();
+        double r2 = radius * radius;
+        for (int i = 0; i < segments; i++) {
+            if (boxDistanceSquared(i, cx, cy, cz) > r2) continue;
+            if (distanceSquared(i, cx, cy, cz) <= r2 || distanceSquared(i + 1, cx, cy, cz) <= r2) return true;
+            if (curve.point(refine(i, center)).subtract(center).lengthSquared() <= r2) return true;
+        }
+
+        return false;
+    }
+
+    /**
+     * Finds the first parameter at which the curve enters a sphere.
+     *
+     * @param center the sphere center
+     * @param radius the sphere radius
+     * @return the smallest t inside the sphere, or {@link Double#NaN} if the curve misses it
+     */
+    public double intersectionT(@NotNull Point3D center, double radius) {
+        if (!bounds.intersects(center, radius)) return Double.NaN;
+
+        double cx = center.x(), cy = center.y(), cz = center.z();
+        double r2 = radius * radius;
+        for (int i = 0; i < segments; i++) {
+            if (boxDistanceSquared(i, cx, cy, cz) > r2) continue;
+            if (distanceSquared(i, cx, cy, cz) <= r2) return t(i);
+
+            double inside = refine(i, center);
+            if (curve.point(inside).subtract(center).lengthSquared() > r2) {
+                if (distanceSquared(i + 1, cx, cy, cz) > r2) continue;
+                inside = t(i + 1);
+            }
+
+            // f(outside) > r^2 and f(inside) <= r^2, bisect the crossing
+            double outside = t(i);
+            for (int k = 0; k < BISECTION_ITERATIONS && inside - outside > EPSILON; k++) {
+                double mid = (outside + inside) * 0.5;
+                if (curve.point(mid).subtract(center).lengthSquared() <= r2) inside = mid;
+                else outside = mid;
+            }
+
+            return inside;
+        }
+
+        return Double.NaN;
+    }
+
+    /**
+     * Minimizes the squared distance to p inside one segment with projected Newton iterations,
+     * starting from the projection of p onto the segment chord.
+     */
+    private double refine(int segment, Point3D p) {
+        double lo = t(segment), hi = t(segment + 1);
+
+        double ax = xs[segment], ay = ys[segment], az = zs[segment];
+        double bx = xs[segment + 1] - ax, by = ys[segment + 1] - ay, bz = zs[segment + 1] - az;
+        double len = bx * bx + by * by + bz * bz;
+        double s = len == 0 ? 0.5 : ((p.x() - ax) * bx + (p.y() - ay) * by + (p.z() - az) * bz) / len;
+        double t = lo + Math.min(1, Math.max(0, s)) * (hi - lo);
+
+        for (int k = 0; k < NEWTON_ITERATIONS; k++) {
+            Point3D diff = curve.point(t).subtract(p);
+            Point3D d1 = curve.derivative(t);
+            double g = diff.dot(d1);
+            double h = d1.lengthSquared() + diff.dot(curve.secondDerivative(t));
+            if (h <= 0) break;
+
+            double next = Math.min(hi, Math.max(lo, t - g / h));
+            if (Math.abs(next - t) < EPSILON) {
+                t = next;
+                break;
+            }
+            t = next;
+        }
+
+        return t;
+    }
+
+    private double t(int sample) {
+        return (double) sample / segments;
+    }
+
+    private double distanceSquared(int sample, double px, double py, double pz) {
+        double dx = xs[sample] - px, dy = ys[sample] - py, dz = zs[sample] - pz;
+        return dx * dx + dy * dy + dz * dz;
+    }
+
+    private double boxDistanceSquared(int segment, double px, double py, double pz) {
+        int o = segment * 6;
+        double dx = Math.max(Math.max(boxes[o] - px, 0), px - boxes[o + 3]);
+        double dy = Math.max(Math.max(boxes[o + 1] - py, 0), py - boxes[o + 4]);
+        double dz = Math.max(Math.max(boxes[o + 2] - pz, 0), pz - boxes[o + 5]);
+        return dx * dx + dy * dy + dz * dz;
+    }
+}
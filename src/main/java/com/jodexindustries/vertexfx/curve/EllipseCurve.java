@@ -0,0 +1,47 @@
+package com.jodexindustries.vertexfx.curve;
+
+import com.jodexindustries.vertexfx.VertexFX;
+import com.jodexindustries.vertexfx.geom.BoundingBox;
+import com.jodexindustries.vertexfx.geom.Point3D;
+import com.jodexindustries.vertexfx.geom.ShapeMath;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Ellipse in the XZ plane, a circle when both radii are equal.
+ */
+public record EllipseCurve(double cx, double cy, double cz, double a, double b) implements Curve {
+
+    private static final double OMEGA = ShapeMath.ELLIPSE_OMEGA;
+
+    @Override
+    public @NotNull Point3D point(double t) {
+        return VertexFX.ellipse(cx, cy, cz, a, b, t);
+    }
+
+    @Override
+    public void point(double t, int index, @NotNull PointConsumer out) {
+        out.accept(index, ShapeMath.ellipseX(cx, a, t), cy, ShapeMath.ellipseZ(cz, b, t));
+    }
+
+    @Override
+    public @NotNull Point3D derivative(double t) {
+        double angle = t * OMEGA;
+        return new Point3D(-a * OMEGA * Math.sin(angle), 0, b * OMEGA * Math.cos(angle));
+    }
+
+    @Override
+    public @NotNull Point3D secondDerivative(double t) {
+        double angle = t * OMEGA;
+        return new Point3D(-a * OMEGA * OMEGA * Math.cos(angle), 0, -b * OMEGA * OMEGA * Math.sin(angle));
+    }
+
+    @Override
+    public double maxSecondDerivative(double from, double to) {
+        return OMEGA * OMEGA * Math.max(Math.abs(a), Math.abs(b));
+    }
+
+    @Override
+    public @NotNull BoundingBox bounds() {
+        return VertexFX.ellipseBounds(cx, cy, cz, a, b);
+    }
+}
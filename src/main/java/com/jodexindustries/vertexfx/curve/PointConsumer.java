@@ -0,0 +1,18 @@
+package com.jodexindustries.vertexfx.curve;
+
+/**
+ * Receives sampled points as raw coordinates.
+ */
+@FunctionalInterface
+public interface PointConsumer {
+
+    /**
+     * Accepts one sampled point.
+     *
+     * @param index sample index
+     * @param x     X coordinate
+     * @param y     Y coordinate
+     * @param z     Z coordinate
+     */
+    void accept(int index, double x, double y, double z);
+}
@@ -0,0 +1,106 @@
+package com.jodexindustries.vertexfx.curve;
+
+import com.jodexindustries.vertexfx.geom.Point3D;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * Lazily samples a curve at t = index / samples for every index in a range.
+ * <p>
+ * Points are generated only when consumed, and splitting halves the index range,
+ * so parallel streams divide the work evenly without buffering.
+ */
+public final class PointSpliterator implements Spliterator<Point3D> {
+
+    private final Curve curve;
+
+    private final int samples;
+
+    private int index;
+
+    private final int fence;
+
+    public PointSpliterator(@NotNull Curve curve, int samples) {
+        this(curve, samples, 0, samples);
+    }
+
+    private PointSpliterator(Curve curve, int samples, int origin, int fence) {
+        if (samples < 0)
+            throw new IllegalArgumentException("Samples must not be negative");
+
+        this.curve = curve;
+        this.samples = samples;
+        this.index = origin;
+        this.fence = fence;
+    }
+
+    @Override
+    public boolean tryAdvance(@NotNull Consumer<? super Point3D> action) {
+        if (index >= fence) return false;
+
+        action.accept(curve.point(t(index++)));
+        return true;
+    }
+
+    /**
+     * Primitive form of {@link #tryAdvance(Consumer)}.
+     *
+     * @param action receives the coordinates of the next point
+     * @return false if no points remain
+     */
+    public boolean tryAdvance(@NotNull PointConsumer action) {
+        if (index >= fence) return false;
+
+        int i = index++;
+        curve.point(t(i), i, action);
+        return true;
+    }
+
+    @Override
+    public void forEachRemaining(@NotNull Consumer<? super Point3D> action) {
+        int i = index, fence = this.fence;
+        index = fence;
+        for (; i < fence; i++) {
+            action.accept(curve.point(t(i)));
+        }
+    }
+
+    /**
+     * Primitive form of {@link #forEachRemaining(Consumer)}.
+     *
+     * @param action receives the coordinates of every remaining point
+     */
+    public void forEachRemaining(@NotNull PointConsumer action) {
+        int i = index, fence = this.fence;
+        index = fence;
+        for (; i < fence; i++) {
+            curve.point(t(i), i, action);
+        }
+    }
+
+    @Override
+    public @Nullable PointSpliterator trySplit() {
+        int origin = index, mid = (origin + fence) >>> 1;
+        if (origin >= mid) return null;
+
+        index = mid;
+        return new PointSpliterator(curve, samples, origin, mid);
+    }
+
+    @Override
+    public long estimateSize() {
+        return fence - index;
+    }
+
+    @Override
+    public int characteristics() {
+        return ORDERED | SIZED | SUBSIZED | IMMUTABLE | NONNULL;
+    }
+
+    private double t(int i) {
+        return (double) i / samples;
+    }
+}
@@ -0,0 +1,47 @@
+package com.jodexindustries.vertexfx.curve;
+
+import com.jodexindustries.vertexfx.VertexFX;
+import com.jodexindustries.vertexfx.geom.BoundingBox;
+import com.jodexindustries.vertexfx.geom.Point3D;
+import com.jodexindustries.vertexfx.geom.ShapeMath;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Spiral rising along Y.
+ */
+public record SpiralCurve(double cx, double cy, double cz, double r, double h) implements Curve {
+
+    private static final double OMEGA = ShapeMath.SPIRAL_OMEGA;
+
+    @Override
+    public @NotNull Point3D point(double t) {
+        return VertexFX.spiral(cx, cy, cz, r, h, t);
+    }
+
+    @Override
+    public void point(double t, int index, @NotNull PointConsumer out) {
+        out.accept(index, ShapeMath.spiralX(cx, r, t), ShapeMath.spiralY(cy, h, t), ShapeMath.spiralZ(cz, r, t));
+    }
+
+    @Override
+    public @NotNull Point3D derivative(double t) {
+        double angle = t * OMEGA;
+        return new Point3D(-r * OMEGA * Math.sin(angle), h, r * OMEGA * Math.cos(angle));
+    }
+
+    @Override
+    public @NotNull Point3D secondDerivative(double t) {
+        double angle = t * OMEGA;
+        return new Point3D(-r * OMEGA * OMEGA * Math.cos(angle), 0, -r * OMEGA * OMEGA * Math.sin(angle));
+    }
+
+    @Override
+    public double maxSecondDerivative(double from, double to) {
+        return OMEGA * OMEGA * Math.abs(r);
+    }
+
+    @Override
+    public @NotNull BoundingBox bounds() {
+        return VertexFX.spiralBounds(cx, cy, cz, r, h);
+    }
+}
@@ -0,0 +1,106 @@
+package com.jodexindustries.vertexfx.exchange;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Hands generated point frames from a simulation thread to any number of reader threads without locks or copies.
+ * <p>
+ * The producer claims a back buffer, fills it and publishes it atomically. Readers always see the latest
+ * complete frame and keep it alive by reference counting until they close it. Frames that are no longer
+ * referenced go back to a fixed-size pool of slots, so as long as the pool is large enough for the frames
+ * held by readers at once, a steady state allocates nothing. Frames that do not fit are left to the GC.
+ *
+ * <pre>{@code
+ * // simulation thread
+ * PointFrame back = exchange.claim();
+ * back.fill(curve, samples);
+ * exchange.publish(back);
+ *
+ * // render thread
+ * try (PointFrame frame = exchange.acquire()) {
+ *     if (frame != null) draw(frame);
+ * }
+ * }</pre>
+ */
+public final class FrameExchange {
+
+    private final AtomicReference<PointFrame> latest = new AtomicReference<>();
+
+    public static final int DEFAULT_POOL_SIZE = 8;
+
+    private final AtomicReferenceArray<PointFrame> pool;
+
+    private long sequence;
+
+    public FrameExchange() {
+        this(DEFAULT_POOL_SIZE);
+    }
+
+    /**
+     * Creates an exchange keeping up to poolSize released frames for reuse.
+     *
+     * @param poolSize number of pool slots, at least the number of frames readers may hold at once plus one
+     */
+    public FrameExchange(int poolSize) {
+        if (poolSize < 1)
+            throw new IllegalArgumentException("Pool size must be positive");
+        this.pool = new AtomicReferenceArray<>(poolSize);
+    }
+
+    /**
+     * Takes an empty frame from the pool, or allocates one if the pool is empty.
+     *
+     * @return a frame owned by the caller until it is published
+     */
+    public @NotNull PointFrame claim() {
+        for (int i = 0; i < pool.length(); i++) {
+            if (pool.get(i) == null) continue;
+
+            PointFrame frame = pool.getAndSet(i, null);
+            if (frame != null) {
+                frame.reset();
+                return frame;
+            }
+        }
+
+        return new PointFrame(this);
+    }
+
+    /**
+     * Makes a frame the latest one visible to readers and releases the previous frame.
+     * The frame must not be modified afterwards. Only one thread may publish.
+     *
+     * @param frame a frame obtained from {@link #claim()}
+     */
+    public void publish(@NotNull PointFrame frame) {
+        frame.sequence = ++sequence;
+        frame.publish();
+
+        PointFrame previous = latest.getAndSet(frame);
+        if (previous != null) previous.close();
+    }
+
+    /**
+     * Returns the latest published frame with an extra reference, to be closed by the caller.
+     *
+     * @return the latest frame, or null if nothing was published yet
+     */
+    public @Nullable PointFrame acquire() {
+        while (true) {
+            PointFrame frame = latest.get();
+            if (frame == null || frame.retain()) return frame;
+            // the frame was replaced and recycled in between, retry with the new latest one
+        }
+    }
+
+    void recycle(PointFrame frame) {
+        for (int i = 0; i < pool.length(); i++) {
+            if (pool.get(i) == null && pool.compareAndSet(i, null, frame)) return;
+        }
+        // pool is full, let the frame be collected
+    }
+}
@@ -0,0 +1,161 @@
+package com.jodexindustries.vertexfx.exchange;
+
+import com.jodexindustries.vertexfx.curve.Curve;
+import com.jodexindustries.vertexfx.curve.PointConsumer;
+import com.jodexindustries.vertexfx.geom.Point3D;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A reusable buffer of points handed from a producer to consumers through a {@link FrameExchange}.
+ * <p>
+ * The producer writes a frame between {@link FrameExchange#claim()} and {@link FrameExchange#publish(PointFrame)}.
+ * Once published the frame is read-only, consumers read it between {@link FrameExchange#acquire()}
+ * and {@link #close()}. The frame returns to the pool when the last reference is released.
+ */
+public final class PointFrame implements AutoCloseable {
+
+    private static final int INITIAL_CAPACITY = 64;
+
+    private final FrameExchange exchange;
+
+    private final AtomicInteger references = new AtomicInteger();
+
+    private final PointConsumer appender = (i, x, y, z) -> add(x, y, z);
+
+    private double[] coords = new double[INITIAL_CAPACITY * 3];
+
+    private int size;
+
+    private double time;
+
+    long sequence;
+
+    PointFrame(FrameExchange exchange) {
+        this.exchange = exchange;
+    }
+
+    /**
+     * Returns the number of points in this frame.
+     *
+     * @return the point count
+     */
+    public int size() {
+        return size;
+    }
+
+    public double x(int index) {
+        return coords[offset(index)];
+    }
+
+    public double y(int index) {
+        return coords[offset(index) + 1];
+    }
+
+    public double z(int index) {
+        return coords[offset(index) + 2];
+    }
+
+    @Contract("_ -> new")
+    public @NotNull Point3D get(int index) {
+        int offset = offset(index);
+        return new Point3D(coords[offset], coords[offset + 1], coords[offset + 2]);
+    }
+
+    /**
+     * Returns the simulation time this frame was generated for.
+     *
+     * @return the producer-defined time
+     */
+    public double time() {
+        return time;
+    }
+
+    /**
+     * Returns the publication number of this frame, increasing with every publish.
+     *
+     * @return the sequence number
+     */
+    public long sequence() {
+        return sequence;
+    }
+
+    /**
+     * Sets the simulation time of this frame. Producer only.
+     *
+     * @param time the producer-defined time
+     */
+    public void time(double time) {
+        this.time = time;
+    }
+
+    /**
+     * Appends a point. Producer only.
+     *
+     * @param x X coordinate
+     * @param y Y coordinate
+     * @param z Z coordinate
+     */
+    public void add(double x, double y, double z) {
+        int offset = size * 3;
+        if (offset + 3 > coords.length) coords = Arrays.copyOf(coords, coords.length * 2);
+
+        coords[offset] = x;
+        coords[offset + 1] = y;
+        coords[offset + 2] = z;
+        size++;
+    }
+
+    public void add(@NotNull Point3D point) {
+        add(point.x(), point.y(), point.z());
+    }
+
+    /**
+     * Appends points sampled from a curve at t = index / samples. Producer only.
+     *
+     * @param curve   the curve to sample
+     * @param samples number of points
+     */
+    public void fill(@NotNull Curve curve, int samples) {
+        int required = (size + samples) * 3;
+        if (required > coords.length) coords = Arrays.copyOf(coords, Math.max(required, coords.length * 2));
+
+        curve.forEachPoint(samples, appender);
+    }
+
+    /**
+     * Releases this reference to the frame. Consumers must call it exactly once per acquire.
+     */
+    @Override
+    public void close() {
+        if (references.decrementAndGet() == 0) exchange.recycle(this);
+    }
+
+    void reset() {
+        this.size = 0;
+        this.time = 0;
+    }
+
+    void publish() {
+        references.set(1);
+    }
+
+    /**
+     * Adds a reference unless the frame has already been released to the pool.
+     */
+    boolean retain() {
+        for (int count = references.get(); count > 0; count = references.get()) {
+            if (references.compareAndSet(count, count + 1)) return true;
+        }
+
+        return false;
+    }
+
+    private int offset(int index) {
+        if (index < 0 || index >= size) throw new IndexOutOfBoundsException(index);
+        return index * 3;
+    }
+}
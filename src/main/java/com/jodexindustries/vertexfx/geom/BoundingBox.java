@@ -0,0 +1,218 @@
+package com.jodexindustries.vertexfx.geom;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Represents an immutable axis-aligned bounding box in Cartesian space.
+ */
+public record BoundingBox(double minX, double minY, double minZ, double maxX, double maxY, double maxZ) {
+
+    /**
+     * Returns the corner with the smallest coordinates.
+     *
+     * @return the minimum corner
+     */
+    @Contract(" -> new")
+    public @NotNull Point3D min() {
+        return new Point3D(minX, minY, minZ);
+    }
+
+    /**
+     * Returns the corner with the largest coordinates.
+     *
+     * @return the maximum corner
+     */
+    @Contract(" -> new")
+    public @NotNull Point3D max() {
+        return new Point3D(maxX, maxY, maxZ);
+    }
+
+    /**
+     * Returns the center of the box.
+     *
+     * @return the center point
+     */
+    @Contract(" -> new")
+    public @NotNull Point3D center() {
+        return new Point3D((minX + maxX) * 0.5, (minY + maxY) * 0.5, (minZ + maxZ) * 0.5);
+    }
+
+    /**
+     * Returns the extent of the box along every axis.
+     *
+     * @return a vector of width, height and depth
+     */
+    @Contract(" -> new")
+    public @NotNull Point3D size() {
+        return new Point3D(maxX - minX, maxY - minY, maxZ - minZ);
+    }
+
+    /**
+     * Checks whether the point lies inside or on the border of this box.
+     *
+     * @param p the point to test
+     * @return true if the point is contained
+     */
+    @Contract(pure = true)
+    public boolean contains(@NotNull Point3D p) {
+        return p.x() >= minX && p.x() <= maxX
+                && p.y() >= minY && p.y() <= maxY
+                && p.z() >= minZ && p.z() <= maxZ;
+    }
+
+    /**
+     * Checks whether this box overlaps another one. Touching borders count as an overlap.
+     *
+     * @param o the other box
+     * @return true if both boxes share at least one point
+     */
+    @Contract(pure = true)
+    public boolean intersects(@NotNull BoundingBox o) {
+        return minX <= o.maxX && maxX >= o.minX
+                && minY <= o.maxY && maxY >= o.minY
+                && minZ <= o.maxZ && maxZ >= o.minZ;
+    }
+
+    /**
+     * Checks whether this box overlaps a sphere.
+     *
+     * @param center the sphere center
+     * @param radius the sphere radius
+     * @return true if the sphere touches the box
+     */
+    @Contract(pure = true)
+    public boolean intersects(@NotNull Point3D center, double radius) {
+        double dx = Math.max(Math.max(minX - center.x(), 0), center.x() - maxX);
+        double dy = Math.max(Math.max(minY - center.y(), 0), center.y() - maxY);
+        double dz = Math.max(Math.max(minZ - center.z(), 0), center.z() - maxZ);
+        return dx * dx + dy * dy + dz * dz <= radius * radius;
+    }
+
+    /**
+     * Returns the smallest box containing both this box and another one.
+     *
+     * @param o the other box
+     * @return the union of both boxes
+     */
+    @Contract("_ -> new")
+    public @NotNull BoundingBox union(@NotNull BoundingBox o) {
+        return new BoundingBox(
+                Math.min(minX, o.minX), Math.min(minY, o.minY), Math.min(minZ, o.minZ),
+                Math.max(maxX, o.maxX), Math.max(maxY, o.maxY), Math.max(maxZ, o.maxZ)
+        );
+    }
+
+    /**
+     * Grows the box by the given amount in every direction.
+     *
+     * @param amount the margin to add on every side
+     * @return the expanded box
+     */
+    @Contract("_ -> new")
+    public @NotNull BoundingBox expand(double amount) {
+        return new BoundingBox(
+                minX - amount, minY - amount, minZ - amount,
+                maxX + amount, maxY + amount, maxZ + amount
+        );
+    }
+
+    /**
+     * Moves the box by a vector.
+     *
+     * @param o the translation vector
+     * @return the translated box
+     */
+    @Contract("_ -> new")
+    public @NotNull BoundingBox offset(@NotNull Point3D o) {
+        return new BoundingBox(
+                minX + o.x(), minY + o.y(), minZ + o.z(),
+                maxX + o.x(), maxY + o.y(), maxZ + o.z()
+        );
+    }
+
+    /**
+     * Returns a box containing this box rotated around a pivot,
+     * using the same rotation order as {@link Point3D#rotateAround(Point3D, double, double, double)}.
+     * The result is conservative: every point rotated with the same angles stays inside it.
+     *
+     * @param pivot the pivot point
+     * @param pitch rotation around X-axis (radians)
+     * @param yaw   rotation around Y-axis (radians)
+     * @param roll  rotation around Z-axis (radians)
+     * @return the rotated bounds
+     */
+    @Contract("_, _, _, _ -> new")
+    public @NotNull BoundingBox rotateAround(@NotNull Point3D pivot, double pitch, double yaw, double roll) {
+        Point3D[] corners = new Point3D[8];
+        for (int i = 0; i < 8; i++) {
+            corners[i] = new Point3D(
+                    (i & 1) == 0 ? minX : maxX,
+                    (i & 2) == 0 ? minY : maxY,
+                    (i & 4) == 0 ? minZ : maxZ
+            ).rotateAround(pivot, pitch, yaw, roll);
+        }
+
+        return of(corners);
+    }
+
+    /**
+     * Creates a box spanned by two opposite corners in any order.
+     *
+     * @param a the first corner
+     * @param b the second corner
+     * @return the box between both corners
+     */
+    @Contract("_, _ -> new")
+    public static @NotNull BoundingBox of(@NotNull Point3D a, @NotNull Point3D b) {
+        return new BoundingBox(
+                Math.min(a.x(), b.x()), Math.min(a.y(), b.y()), Math.min(a.z(), b.z()),
+                Math.max(a.x(), b.x()), Math.max(a.y(), b.y()), Math.max(a.z(), b.z())
+        );
+    }
+
+    /**
+     * Creates the smallest box containing all given points.
+     *
+     * @param points the points to enclose, at least one
+     * @return the enclosing box
+     */
+    @Contract("_ -> new")
+    public static @NotNull BoundingBox of(@NotNull Point3D... points) {
+        if (points.length == 0)
+            throw new IllegalArgumentException("At least one point is required");
+
+        double minX = Double.POSITIVE_INFINITY, minY = Double.POSITIVE_INFINITY, minZ = Double.POSITIVE_INFINITY;
+        double maxX = Double.NEGATIVE_INFINITY, maxY = Double.NEGATIVE_INFINITY, maxZ = Double.NEGATIVE_INFINITY;
+        for (Point3D p : points) {
+            minX = Math.min(minX, p.x());
+            minY = Math.min(minY, p.y());
+            minZ = Math.min(minZ, p.z());
+            maxX = Math.max(maxX, p.x());
+            maxY = Math.max(maxY, p.y());
+            maxZ = Math.max(maxZ, p.z());
+        }
+
+        return new BoundingBox(minX, minY, minZ, maxX, maxY, maxZ);
+    }
+
+    /**
+     * Creates a box around a center with the given half extents.
+     *
+     * @param center the box center
+     * @param rx     half extent along X
+     * @param ry     half extent along Y
+     * @param rz     half extent along Z
+     * @return the box around the center
+     */
+    @Contract("_, _, _, _ -> new")
+    public static @NotNull BoundingBox around(@NotNull Point3D center, double rx, double ry, double rz) {
+        rx = Math.abs(rx);
+        ry = Math.abs(ry);
+        rz = Math.abs(rz);
+        return new BoundingBox(
+                center.x() - rx, center.y() - ry, center.z() - rz,
+                center.x() + rx, center.y() + ry, center.z() + rz
+        );
+    }
+}
@@ -203,9 +203,9 @@ public record Point3D(double x, double y, double z) {
     @Contract("_, _ -> new")
     public @NotNull Point3D lerp(@NotNull Point3D o, double t) {
         return new Point3D(
-                x + (o.x - x) * t,
-                y + (o.y - y) * t,
-                z + (o.z - z) * t
+                ShapeMath.lerp(x, o.x, t),
+                ShapeMath.lerp(y, o.y, t),
+                ShapeMath.lerp(z, o.z, t)
         );
     }
 
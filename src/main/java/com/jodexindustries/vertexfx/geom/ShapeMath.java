@@ -0,0 +1,132 @@
+package com.jodexindustries.vertexfx.geom;
+
+import org.jetbrains.annotations.Contract;
+
+/**
+ * Per-axis formulas shared by the point generators and the curve implementations,
+ * so that every way of sampling a shape produces the same coordinates.
+ */
+public final class ShapeMath {
+
+    /**
+     * Angle swept per unit of t by circles and ellipses.
+     */
+    public static final double ELLIPSE_OMEGA = 2 * Math.PI;
+
+    /**
+     * Angle swept per unit of t by spirals, 5 full turns.
+     */
+    public static final double SPIRAL_OMEGA = 10 * Math.PI;
+
+    private ShapeMath() {
+    }
+
+    /**
+     * Linear interpolation of one coordinate.
+     *
+     * @param a start value
+     * @param b end value
+     * @param t interpolation factor (0 = a, 1 = b)
+     * @return the interpolated value
+     */
+    @Contract(pure = true)
+    public static double lerp(double a, double b, double t) {
+        return a + (b - a) * t;
+    }
+
+    /**
+     * X coordinate of an ellipse in the XZ plane.
+     *
+     * @param cx center X coordinate
+     * @param a  horizontal radius
+     * @param t  normalized time [0..1]
+     * @return the X coordinate
+     */
+    @Contract(pure = true)
+    public static double ellipseX(double cx, double a, double t) {
+        return cx + a * Math.cos(t * ELLIPSE_OMEGA);
+    }
+
+    /**
+     * Z coordinate of an ellipse in the XZ plane.
+     *
+     * @param cz center Z coordinate
+     * @param b  vertical radius
+     * @param t  normalized time [0..1]
+     * @return the Z coordinate
+     */
+    @Contract(pure = true)
+    public static double ellipseZ(double cz, double b, double t) {
+        return cz + b * Math.sin(t * ELLIPSE_OMEGA);
+    }
+
+    /**
+     * X coordinate of a spiral rising along Y.
+     *
+     * @param cx center X coordinate
+     * @param r  spiral radius
+     * @param t  normalized time [0..1]
+     * @return the X coordinate
+     */
+    @Contract(pure = true)
+    public static double spiralX(double cx, double r, double t) {
+        return cx + r * Math.cos(t * SPIRAL_OMEGA);
+    }
+
+    /**
+     * Y coordinate of a spiral rising along Y.
+     *
+     * @param cy center Y coordinate
+     * @param h  total height change
+     * @param t  normalized time [0..1]
+     * @return the Y coordinate
+     */
+    @Contract(pure = true)
+    public static double spiralY(double cy, double h, double t) {
+        return cy + h * t;
+    }
+
+    /**
+     * Z coordinate of a spiral rising along Y.
+     *
+     * @param cz center Z coordinate
+     * @param r  spiral radius
+     * @param t  normalized time [0..1]
+     * @return the Z coordinate
+     */
+    @Contract(pure = true)
+    public static double spiralZ(double cz, double r, double t) {
+        return cz + r * Math.sin(t * SPIRAL_OMEGA);
+    }
+
+    /**
+     * Quadratic Bezier interpolation of one coordinate.
+     *
+     * @param p0 start value
+     * @param p1 control value
+     * @param p2 end value
+     * @param t  normalized time [0..1]
+     * @return the interpolated value
+     */
+    @Contract(pure = true)
+    public static double bezier(double p0, double p1, double p2, double t) {
+        double u = 1 - t;
+        return u * u * p0 + 2 * u * t * p1 + t * t * p2;
+    }
+
+    /**
+     * Catmull-Rom interpolation of one coordinate between p1 and p2.
+     *
+     * @param p0 previous control value
+     * @param p1 start value of the segment
+     * @param p2 end value of the segment
+     * @param p3 next control value
+     * @param t  normalized time [0..1]
+     * @return the interpolated value
+     */
+    @Contract(pure = true)
+    public static double catmullRom(double p0, double p1, double p2, double p3, double t) {
+        double t2 = t * t, t3 = t2 * t;
+        return 0.5 * ((2 * p1) + (-p0 + p2) * t + (2 * p0 - 5 * p1 + 4 * p2 - p3) * t2 + (-p0 + 3 * p1 - 3 * p2 + p3) * t3);
+    }
+}
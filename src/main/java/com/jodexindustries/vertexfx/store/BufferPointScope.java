@@ -0,0 +1,36 @@
+package com.jodexindustries.vertexfx.store;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Scope tracking direct buffer stores, used on runtimes without the final foreign memory API.
+ */
+final class BufferPointScope implements PointScope {
+
+    private final List<BufferPointStore> stores = new ArrayList<>();
+
+    private boolean closed;
+
+    @Override
+    public synchronized @NotNull PointStore allocate(int capacity) {
+        if (closed) throw new IllegalStateException("Scope is closed");
+
+        BufferPointStore store = new BufferPointStore(capacity, true);
+        stores.add(store);
+        return store;
+    }
+
+    @Override
+    public synchronized void close() {
+        if (closed) return;
+
+        this.closed = true;
+        for (BufferPointStore store : stores) {
+            store.release();
+        }
+        stores.clear();
+    }
+}
@@ -0,0 +1,96 @@
+package com.jodexindustries.vertexfx.store;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+
+/**
+ * Point store backed by a direct {@link ByteBuffer}, used on runtimes without the final foreign memory API.
+ */
+final class BufferPointStore implements PointStore {
+
+    private static final int MAX_CAPACITY = Integer.MAX_VALUE / POINT_BYTES;
+
+    private final int capacity;
+
+    // plain fields, the store is not synchronized and a null value marks it as closed
+    private ByteBuffer bytes;
+
+    private DoubleBuffer doubles;
+
+    private final boolean scoped;
+
+    /**
+     * @param scoped whether the store belongs to a scope, which then is the only one able to release it
+     */
+    BufferPointStore(int capacity, boolean scoped) {
+        if (capacity < 0)
+            throw new IllegalArgumentException("Capacity must not be negative");
+        if (capacity > MAX_CAPACITY)
+            throw new IllegalArgumentException("Capacity exceeds " + MAX_CAPACITY + " points");
+
+        this.capacity = capacity;
+        this.scoped = scoped;
+        this.bytes = ByteBuffer.allocateDirect(capacity * POINT_BYTES).order(ByteOrder.nativeOrder());
+        this.doubles = bytes.asDoubleBuffer();
+    }
+
+    @Override
+    public int capacity() {
+        return capacity;
+    }
+
+    @Override
+    public double x(int index) {
+        return doubles().get(offset(index));
+    }
+
+    @Override
+    public double y(int index) {
+        return doubles().get(offset(index) + 1);
+    }
+
+    @Override
+    public double z(int index) {
+        return doubles().get(offset(index) + 2);
+    }
+
+    @Override
+    public void set(int index, double x, double y, double z) {
+        DoubleBuffer doubles = doubles();
+        int offset = offset(index);
+        doubles.put(offset, x);
+        doubles.put(offset + 1, y);
+        doubles.put(offset + 2, z);
+    }
+
+    @Override
+    public @NotNull ByteBuffer asByteBuffer() {
+        ByteBuffer bytes = this.bytes;
+        if (bytes == null) throw new IllegalStateException("Store is closed");
+        return bytes.duplicate().order(ByteOrder.nativeOrder());
+    }
+
+    @Override
+    public void close() {
+        if (!scoped) release();
+    }
+
+    void release() {
+        this.doubles = null;
+        this.bytes = null;
+    }
+
+    private DoubleBuffer doubles() {
+        DoubleBuffer doubles = this.doubles;
+        if (doubles == null) throw new IllegalStateException("Store is closed");
+        return doubles;
+    }
+
+    private int offset(int index) {
+        if (index < 0 || index >= capacity) throw new IndexOutOfBoundsException(index);
+        return index * 3;
+    }
+}
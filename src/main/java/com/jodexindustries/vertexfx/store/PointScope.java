@@ -0,0 +1,57 @@
+package com.jodexindustries.vertexfx.store;
+
+import com.jodexindustries.vertexfx.curve.Curve;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Groups point stores under one lifetime.
+ * <p>
+ * On JDK 22 and newer all stores of a scope are allocated from a single shared arena, so closing the
+ * scope frees them together at the cost of one thread handshake. Closing a single store of a scope has
+ * no effect, its memory is freed when the scope is closed. After that, accessing any of its stores
+ * throws {@link IllegalStateException}.
+ * <p>
+ * Stores can be allocated from any thread.
+ */
+public interface PointScope extends AutoCloseable {
+
+    /**
+     * Allocates a zeroed store owned by this scope.
+     *
+     * @param capacity number of points
+     * @return a new store, freed when this scope is closed
+     */
+    @Contract("_ -> new")
+    @NotNull PointStore allocate(int capacity);
+
+    /**
+     * Allocates a store owned by this scope and fills it from a curve.
+     *
+     * @param curve   the curve to sample
+     * @param samples number of points
+     * @return a new store, freed when this scope is closed
+     */
+    @Contract("_, _ -> new")
+    default @NotNull PointStore bake(@NotNull Curve curve, int samples) {
+        PointStore store = allocate(samples);
+        store.fill(curve);
+        return store;
+    }
+
+    /**
+     * Frees every store allocated from this scope.
+     */
+    @Override
+    void close();
+
+    /**
+     * Opens a new scope.
+     *
+     * @return a new scope, to be closed by the caller
+     */
+    @Contract(" -> new")
+    static @NotNull PointScope open() {
+        return PointStores.openScope();
+    }
+}
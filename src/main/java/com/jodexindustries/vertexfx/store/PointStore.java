@@ -0,0 +1,123 @@
+package com.jodexindustries.vertexfx.store;
+
+import com.jodexindustries.vertexfx.curve.Curve;
+import com.jodexindustries.vertexfx.geom.Point3D;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+import java.nio.ByteBuffer;
+
+/**
+ * A fixed-size block of 3D points stored outside the Java heap.
+ * <p>
+ * Points are laid out as interleaved x, y, z doubles in native byte order.
+ * On JDK 22 and newer the memory is a {@code MemorySegment} owned by a shared arena and is freed
+ * as soon as the store is closed. On older runtimes a direct {@link ByteBuffer} is used instead,
+ * its memory is released once the closed store becomes unreachable.
+ * <p>
+ * A store from {@link #allocate(int)} owns its own arena. Closing a shared arena makes the JVM
+ * synchronize with every running thread, so freeing many stores one by one is expensive. Stores that
+ * live and die together should be allocated from a {@link PointScope}, which frees them all at once.
+ * <p>
+ * Any thread may access the store, but writes are not synchronized.
+ * Accessing a closed store throws {@link IllegalStateException}.
+ */
+public interface PointStore extends AutoCloseable {
+
+    /**
+     * Number of bytes used by one point.
+     */
+    int POINT_BYTES = 3 * Double.BYTES;
+
+    /**
+     * Returns the number of points this store holds.
+     *
+     * @return the capacity in points
+     */
+    int capacity();
+
+    double x(int index);
+
+    double y(int index);
+
+    double z(int index);
+
+    /**
+     * Writes a point.
+     *
+     * @param index the point index
+     * @param x     X coordinate
+     * @param y     Y coordinate
+     * @param z     Z coordinate
+     */
+    void set(int index, double x, double y, double z);
+
+    /**
+     * Returns a view of the raw point data for bulk I/O.
+     * The view has native byte order and its own position and limit.
+     *
+     * @return a direct buffer sharing memory with this store
+     */
+    @NotNull ByteBuffer asByteBuffer();
+
+    /**
+     * Releases the memory of this store.
+     */
+    @Override
+    void close();
+
+    /**
+     * Reads a point into a new object.
+     *
+     * @param index the point index
+     * @return the point at the index
+     */
+    @Contract("_ -> new")
+    default @NotNull Point3D get(int index) {
+        return new Point3D(x(index), y(index), z(index));
+    }
+
+    default void set(int index, @NotNull Point3D point) {
+        set(index, point.x(), point.y(), point.z());
+    }
+
+    /**
+     * Samples a curve into every slot of this store, with t = index / capacity.
+     *
+     * @param curve the curve to sample
+     */
+    default void fill(@NotNull Curve curve) {
+        curve.forEachPoint(capacity(), this::set);
+    }
+
+    /**
+     * Allocates a zeroed store.
+     *
+     * @param capacity number of points
+     * @return a new store, to be closed by the caller
+     */
+    @Contract("_ -> new")
+    static @NotNull PointStore allocate(int capacity) {
+        return PointStores.allocate(capacity);
+    }
+
+    /**
+     * Allocates a store and fills it from a curve.
+     *
+     * @param curve   the curve to sample
+     * @param samples number of points
+     * @return a new store, to be closed by the caller
+     */
+    @Contract("_, _ -> new")
+    static @NotNull PointStore bake(@NotNull Curve curve, int samples) {
+        PointStore store = allocate(samples);
+        try {
+            store.fill(curve);
+        } catch (RuntimeException e) {
+            store.close();
+            throw e;
+        }
+
+        return store;
+    }
+}
@@ -0,0 +1,21 @@
+package com.jodexindustries.vertexfx.store;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Picks the store implementation for the running JDK.
+ * The multi-release jar replaces this class on JDK 22 and newer.
+ */
+final class PointStores {
+
+    private PointStores() {
+    }
+
+    static @NotNull PointStore allocate(int capacity) {
+        return new BufferPointStore(capacity, false);
+    }
+
+    static @NotNull PointScope openScope() {
+        return new BufferPointScope();
+    }
+}
@@ -0,0 +1,23 @@
+package com.jodexindustries.vertexfx.store;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.lang.foreign.Arena;
+
+/**
+ * Scope allocating all of its stores from one shared arena.
+ */
+final class ArenaPointScope implements PointScope {
+
+    private final Arena arena = Arena.ofShared();
+
+    @Override
+    public @NotNull PointStore allocate(int capacity) {
+        return new SegmentPointStore(arena, false, capacity);
+    }
+
+    @Override
+    public void close() {
+        arena.close();
+    }
+}
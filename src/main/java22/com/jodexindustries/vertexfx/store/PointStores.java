@@ -0,0 +1,29 @@
+package com.jodexindustries.vertexfx.store;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.lang.foreign.Arena;
+
+/**
+ * Picks the store implementation for the running JDK.
+ * This version is loaded from the multi-release jar on JDK 22 and newer.
+ */
+final class PointStores {
+
+    private PointStores() {
+    }
+
+    static @NotNull PointStore allocate(int capacity) {
+        Arena arena = Arena.ofShared();
+        try {
+            return new SegmentPointStore(arena, true, capacity);
+        } catch (RuntimeException e) {
+            arena.close();
+            throw e;
+        }
+    }
+
+    static @NotNull PointScope openScope() {
+        return new ArenaPointScope();
+    }
+}
@@ -0,0 +1,87 @@
+package com.jodexindustries.vertexfx.store;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * Point store backed by a {@link MemorySegment}, either owning its arena or living in a {@link PointScope}.
+ */
+final class SegmentPointStore implements PointStore {
+
+    private static final ValueLayout.OfDouble DOUBLE = ValueLayout.JAVA_DOUBLE;
+
+    private final Arena arena;
+
+    private final boolean owned;
+
+    private final MemorySegment segment;
+
+    private final int capacity;
+
+    /**
+     * @param arena the arena to allocate from
+     * @param owned whether closing this store closes the arena, false for stores of a scope
+     */
+    SegmentPointStore(Arena arena, boolean owned, int capacity) {
+        if (capacity < 0)
+            throw new IllegalArgumentException("Capacity must not be negative");
+
+        this.arena = arena;
+        this.owned = owned;
+        this.capacity = capacity;
+        this.segment = arena.allocate((long) capacity * POINT_BYTES, DOUBLE.byteAlignment());
+    }
+
+    @Override
+    public int capacity() {
+        return capacity;
+    }
+
+    @Override
+    public double x(int index) {
+        return segment.getAtIndex(DOUBLE, offset(index));
+    }
+
+    @Override
+    public double y(int index) {
+        return segment.getAtIndex(DOUBLE, offset(index) + 1);
+    }
+
+    @Override
+    public double z(int index) {
+        return segment.getAtIndex(DOUBLE, offset(index) + 2);
+    }
+
+    @Override
+    public void set(int index, double x, double y, double z) {
+        long offset = offset(index);
+        segment.setAtIndex(DOUBLE, offset, x);
+        segment.setAtIndex(DOUBLE, offset + 1, y);
+        segment.setAtIndex(DOUBLE, offset + 2, z);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws UnsupportedOperationException if the store is larger than 2 GiB
+     */
+    @Override
+    public @NotNull ByteBuffer asByteBuffer() {
+        return segment.asByteBuffer().order(ByteOrder.nativeOrder());
+    }
+
+    @Override
+    public void close() {
+        if (owned) arena.close();
+    }
+
+    private long offset(int index) {
+        if (index < 0 || index >= capacity) throw new IndexOutOfBoundsException(index);
+        return (long) index * 3;
+    }
+}
@@ -1,15 +1,26 @@
 package com.jodexindustries.vertexfx;
 
+import com.jodexindustries.vertexfx.exchange.PointFrame;
 import com.jodexindustries.vertexfx.frame.PreviewPanel;
+import com.jodexindustries.vertexfx.frame.PreviewScene;
+import com.jodexindustries.vertexfx.frame.RasterRenderer;
 import com.jodexindustries.vertexfx.frame.VertexFrame;
 import com.jodexindustries.vertexfx.geom.Point3D;
 
 import javax.swing.*;
 import java.awt.*;
+import java.io.File;
+import java.io.IOException;
 
 public class LinearInterpolationTest {
 
-    public static void main(String[] args) {
+    public static void main(String[] args) throws IOException {
+        if (GraphicsEnvironment.isHeadless()) {
+            File file = new File(args.length > 0 ? args[0] : "lerp.png");
+            PreviewPanel.capture(new Scene(), 400, 120, VertexFrame.DEFAULT_SCALE, VertexFrame.DEFAULT_STEP, 0.5, file);
+            return;
+        }
+
         SwingUtilities.invokeLater(() -> {
             VertexFrame frame = new VertexFrame();
             frame.addPreview(new Preview(frame));
@@ -18,17 +29,69 @@ public class LinearInterpolationTest {
         });
     }
 
-    static class Preview extends PreviewPanel {
+    static class Scene implements PreviewScene {
+
+        private static final int POINT_COLOR = 0xFF000000;
+
+        private static final int MOVING_COLOR = 0xC8FF0000;
+
+        private volatile LinearInterpolation lerp = new LinearInterpolation(Point3D.of(0), Point3D.of(25));
+
+        void setLine(double sx, double ex) {
+            this.lerp = new LinearInterpolation(Point3D.of(sx, 0), Point3D.of(ex, 0));
+        }
+
+        @Override
+        public int drawStatic(RasterRenderer raster, double scale, double step) {
+            LinearInterpolation lerp = this.lerp;
+            double offset = -lerp.start().x();
+
+            Graphics2D g2 = raster.createGraphics();
+            g2.setColor(Color.BLACK);
+
+            int count = 0;
+            for (Point3D p : lerp.generatePoints(step)) {
+                int x = (int) ((p.x() + offset) * scale);
+                int y = (int) (p.y() * scale);
+                raster.fillRect(x, y, 1, 8, POINT_COLOR);
+                g2.drawString(String.valueOf(p.x()), x, y + 20);
+                count++;
+            }
+            g2.dispose();
+
+            raster.fillRect(0, 8, (int) ((lerp.end().x() + offset) * scale) + 1, 1, POINT_COLOR);
+            return count;
+        }
+
+        @Override
+        public void simulate(PointFrame frame, double t) {
+            // the line start travels with the frame, so drawing never mixes it with a newer line
+            LinearInterpolation lerp = this.lerp;
+            frame.add(lerp.getPoint(t));
+            frame.add(lerp.start());
+        }
+
+        @Override
+        public void drawDynamic(RasterRenderer raster, double scale, PointFrame frame) {
+            double offset = -frame.x(1);
+            int mx = (int) ((frame.x(0) + offset) * scale);
+            int my = (int) (frame.y(0) * scale);
+            raster.fillRect(mx, my, 3, 10, MOVING_COLOR);
+        }
 
-        private LinearInterpolation lerp = new LinearInterpolation(Point3D.of(0), Point3D.of(25));
+        @Override
+        public double position(PointFrame frame) {
+            return frame.x(0);
+        }
+    }
 
-        private double offset = -lerp.start().x();
+    static class Preview extends PreviewPanel {
 
         private final JSpinner startXField = new JSpinner(new SpinnerNumberModel(0.0, null, null, 0.1));
         private final JSpinner endXField = new JSpinner(new SpinnerNumberModel(25.0, null, null, 0.1));
 
         public Preview(VertexFrame frame) {
-            super(frame);
+            super(frame, new Scene());
 
             // points
             JPanel pointsRow = VertexFrame.row();
@@ -47,34 +110,14 @@ public class LinearInterpolationTest {
                 double sx = (double) startXField.getValue();
                 double ex = (double) endXField.getValue();
 
-                this.lerp = new LinearInterpolation(Point3D.of(sx, 0), Point3D.of(ex, 0));
-                this.offset = -lerp.start().x();
-                this.t = 0;
+                ((Scene) scene).setLine(sx, ex);
+                this.resetAnimation();
+                this.invalidateGeometry();
                 this.repaint();
             } catch (Exception exn) {
                 JOptionPane.showMessageDialog(frame, "Invalid number format!");
             }
         }
-
-        @Override
-        public void paintComponent(Graphics2D g2) {
-            for (Point3D p : lerp.generatePoints(frame.step)) {
-                int x = (int) ((p.x() + offset) * frame.scale);
-                int y = (int) (p.y() * frame.scale);
-                g2.fillRect(x, y, 1, 8);
-                g2.drawString(String.valueOf(p.x()), x, y + 20);
-            }
-
-            g2.drawLine(0, 8, (int) ((lerp.end().x() + offset) * frame.scale), 8);
-
-            Point3D moving = lerp.getPoint(t);
-            g2.setColor(new Color(255, 0, 0, 200));
-            int mx = (int) ((moving.x() + offset) * frame.scale);
-            int my = (int) (moving.y() * frame.scale);
-            g2.fillRect(mx, my, 3, 10);
-
-            this.currentPosition = moving.x();
-        }
     }
 
 }
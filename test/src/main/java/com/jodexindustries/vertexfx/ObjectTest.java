@@ -1,15 +1,25 @@
 package com.jodexindustries.vertexfx;
 
+import com.jodexindustries.vertexfx.curve.Curve;
 import com.jodexindustries.vertexfx.frame.PreviewPanel;
+import com.jodexindustries.vertexfx.frame.PreviewScene;
+import com.jodexindustries.vertexfx.frame.RasterRenderer;
 import com.jodexindustries.vertexfx.frame.VertexFrame;
-import com.jodexindustries.vertexfx.geom.Point3D;
 
 import javax.swing.*;
 import java.awt.*;
+import java.io.File;
+import java.io.IOException;
 
 public class ObjectTest {
 
-    public static void main(String[] args) {
+    public static void main(String[] args) throws IOException {
+        if (GraphicsEnvironment.isHeadless()) {
+            File file = new File(args.length > 0 ? args[0] : "object.png");
+            PreviewPanel.capture(new Scene(), 400, 400, VertexFrame.DEFAULT_SCALE * 2, VertexFrame.DEFAULT_STEP, 0, file);
+            return;
+        }
+
         SwingUtilities.invokeLater(() -> {
             VertexFrame frame = new VertexFrame();
             frame.addPreview(new Preview(frame));
@@ -18,13 +28,34 @@ public class ObjectTest {
         });
     }
 
+    static class Scene implements PreviewScene {
+
+        private static final int DOT_COLOR = 0xFF000000;
+
+        private final Curve circle = Curve.circle(0, 0, 0, 2);
+
+        @Override
+        public int drawStatic(RasterRenderer raster, double scale, double step) {
+            int dot = Math.max(1, (int) (scale / 15.0));
+
+            int samples = (int) (1.0 / step);
+
+            circle.forEachPoint(samples, (i, x, y, z) -> raster.fillRect(
+                    (int) ((x + 5) * scale),
+                    (int) ((z + 5) * scale),
+                    dot, dot, DOT_COLOR
+            ));
+
+            return samples;
+        }
+    }
 
     static class Preview extends PreviewPanel {
 
         private int dots = 10;
 
         public Preview(VertexFrame frame) {
-            super(frame);
+            super(frame, new Scene());
 
             JPanel dotsRow = VertexFrame.labeledSliderRow("Dots:", 0, 100, dots, 200, 50, 1, 10);
             JLabel dotsLabel = (JLabel) dotsRow.getClientProperty("label");
@@ -40,26 +71,5 @@ public class ObjectTest {
                 stepSlider.setValue((int) (frame.step * 1000));
             });
         }
-
-        @Override
-        public void paintComponent(Graphics2D g2) {
-            g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
-
-            int dot = Math.max(1, (int)(frame.scale / 15.0));
-
-            int samples = (int)(1.0 / frame.step);
-
-            for (int i = 0; i < samples; i++) {
-                double t = (double) i / samples;
-
-                Point3D p = VertexFX.circle(0, 0, 0, 2, t).round(13);
-
-                int x = (int) ((p.x() + 5) * frame.scale);
-                int y = (int) ((p.z() + 5) * frame.scale);
-
-                g2.fillRect(x, y, dot, dot);
-            }
-
-        }
     }
 }
@@ -1,22 +1,69 @@
 package com.jodexindustries.vertexfx.frame;
 
+import com.jodexindustries.vertexfx.exchange.FrameExchange;
+import com.jodexindustries.vertexfx.exchange.PointFrame;
+
 import javax.swing.*;
 import java.awt.*;
+import java.io.File;
+import java.io.IOException;
+
+public class PreviewPanel extends JPanel {
+
+    private static final int BACKGROUND = 0xFFFFFFFF;
+
+    private static final long HUD_INTERVAL = 250_000_000L;
+
+    private final FrameExchange exchange = new FrameExchange();
 
-public abstract class PreviewPanel extends JPanel {
+    // owned by the simulation thread
+    private double t = 0;
 
-    public double t = 0;
+    private boolean published = false;
 
-    public double currentPosition = 0;
+    private volatile boolean resetRequested = false;
+
+    // written by the simulation thread, shown by the HUD
+    private volatile long simulationNanos;
+
+    // owned by the Swing thread, read from the latest frame
+    private double currentT = 0;
+
+    private double currentPosition = 0;
 
     private final VLabel locationLabel = new VLabel("Location: " + this.currentPosition);
 
-    private final VLabel tLabel = new VLabel("t: " + this.t);
+    private final VLabel tLabel = new VLabel("t: " + this.currentT);
+
+    private final VLabel hudLabel = new VLabel("Frame: - ms");
 
     protected final VertexFrame frame;
 
-    public PreviewPanel(VertexFrame frame) {
+    protected final PreviewScene scene;
+
+    private final RasterRenderer staticLayer = new RasterRenderer(1, 1);
+
+    private final RasterRenderer raster = new RasterRenderer(1, 1);
+
+    private boolean geometryValid = false;
+
+    private double lastScale;
+
+    private double lastStep;
+
+    private int staticPoints;
+
+    private int dynamicPoints;
+
+    private long frameNanos;
+
+    private long staticNanos;
+
+    private long lastHudUpdate;
+
+    public PreviewPanel(VertexFrame frame, PreviewScene scene) {
         this.frame = frame;
+        this.scene = scene;
 
         setLayout(new OverlayLayout(this));
 
@@ -31,34 +78,119 @@ public abstract class PreviewPanel extends JPanel {
         labelPanel.setLayout(new BoxLayout(labelPanel, BoxLayout.Y_AXIS));
 
         labelPanel.add(locationLabel);
-        labelPanel.add(tLabel, BorderLayout.SOUTH);
+        labelPanel.add(tLabel);
+        labelPanel.add(hudLabel);
 
         add(labelPanel);
     }
 
+    /**
+     * Restarts the animation from t = 0 on the next simulation tick.
+     */
+    public void resetAnimation() {
+        this.resetRequested = true;
+    }
+
+    /**
+     * Forces the static layer to be regenerated on the next repaint.
+     */
+    public void invalidateGeometry() {
+        this.geometryValid = false;
+    }
+
     @Override
     protected final void paintComponent(Graphics g) {
-        super.paintComponent(g);
+        long start = System.nanoTime();
 
-        Graphics2D g2 = (Graphics2D) g;
-        g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
-        paintComponent(g2);
-    }
+        double scale = frame.scale, step = frame.step;
+        boolean resized = staticLayer.resize(getWidth(), getHeight());
+        raster.resize(getWidth(), getHeight());
 
-    public abstract void paintComponent(Graphics2D g);
+        if (resized || !geometryValid || scale != lastScale || step != lastStep) {
+            staticLayer.clear(BACKGROUND);
+            this.staticPoints = scene.drawStatic(staticLayer, scale, step);
+            this.staticNanos = System.nanoTime() - start;
 
-    public void updateAnimation() {
-        if (!frame.paused) {
+            this.geometryValid = true;
+            this.lastScale = scale;
+            this.lastStep = step;
+        }
+
+        raster.copyFrom(staticLayer);
+        try (PointFrame latest = exchange.acquire()) {
+            if (latest != null) {
+                scene.drawDynamic(raster, scale, latest);
+                this.dynamicPoints = latest.size();
+                this.currentT = latest.time();
+                this.currentPosition = scene.position(latest);
+            }
+        }
+        g.drawImage(raster.image(), 0, 0, null);
+
+        this.frameNanos = System.nanoTime() - start;
+    }
+
+    /**
+     * Advances the animation and publishes a new frame. Called on the simulation thread.
+     * While paused the last frame stays published, until a reset is requested.
+     */
+    public void simulate() {
+        if (resetRequested) {
+            this.resetRequested = false;
+            this.t = 0;
+        } else if (!frame.paused) {
             t += frame.speed;
             if (t > 1) t = 0;
+        } else if (published) {
+            return;
         }
 
-        locationLabel.setText("Location: " + this.currentPosition);
-        tLabel.setText("t: " + this.t);
+        long start = System.nanoTime();
+        PointFrame back = exchange.claim();
+        back.time(t);
+        scene.simulate(back, t);
+        this.simulationNanos = System.nanoTime() - start;
+
+        exchange.publish(back);
+        this.published = true;
+    }
+
+    /**
+     * Refreshes the labels and repaints the latest frame. Called on the Swing thread.
+     */
+    public void updateAnimation() {
+        long now = System.nanoTime();
+        if (now - lastHudUpdate >= HUD_INTERVAL) {
+            this.lastHudUpdate = now;
+
+            locationLabel.setText("Location: " + this.currentPosition);
+            tLabel.setText("t: " + this.currentT);
+            hudLabel.setText(String.format("Frame: %.3f ms | Gen: %.3f ms (static %.3f ms) | Points: %d",
+                    frameNanos / 1e6, simulationNanos / 1e6, staticNanos / 1e6, staticPoints + dynamicPoints));
+        }
 
         repaint();
     }
 
+    /**
+     * Renders a scene without any window, for screenshots in headless environments.
+     */
+    public static void capture(PreviewScene scene, int width, int height, double scale, double step, double t, File file) throws IOException {
+        FrameExchange exchange = new FrameExchange();
+        PointFrame back = exchange.claim();
+        back.time(t);
+        scene.simulate(back, t);
+        exchange.publish(back);
+
+        RasterRenderer raster = new RasterRenderer(width, height);
+        raster.clear(BACKGROUND);
+        scene.drawStatic(raster, scale, step);
+        try (PointFrame latest = exchange.acquire()) {
+            if (latest != null) scene.drawDynamic(raster, scale, latest);
+        }
+        raster.write(file);
+    }
+
     public static class VLabel extends JLabel {
 
         public VLabel(String text) {
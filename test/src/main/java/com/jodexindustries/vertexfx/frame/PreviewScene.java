@@ -0,0 +1,36 @@
+package com.jodexindustries.vertexfx.frame;
+
+import com.jodexindustries.vertexfx.exchange.PointFrame;
+
+/**
+ * Geometry shown by a {@link PreviewPanel}, split into a cached static layer and a per-frame dynamic layer.
+ */
+public interface PreviewScene {
+
+    /**
+     * Draws geometry that only depends on scale and step.
+     * Called again only when either changes or {@link PreviewPanel#invalidateGeometry()} is requested.
+     *
+     * @return number of points drawn
+     */
+    int drawStatic(RasterRenderer raster, double scale, double step);
+
+    /**
+     * Generates the animated points for time t. Called on the simulation thread.
+     */
+    default void simulate(PointFrame frame, double t) {
+    }
+
+    /**
+     * Draws the latest simulated frame on top of the static layer. Called on the Swing thread.
+     */
+    default void drawDynamic(RasterRenderer raster, double scale, PointFrame frame) {
+    }
+
+    /**
+     * Returns the position shown in the location label.
+     */
+    default double position(PointFrame frame) {
+        return 0;
+    }
+}
@@ -0,0 +1,116 @@
+package com.jodexindustries.vertexfx.frame;
+
+import javax.imageio.ImageIO;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
+import java.io.File;
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * Off-screen image whose pixels are written directly into its {@code int[]} raster.
+ * Works without a display, so it can also produce screenshots in headless mode.
+ */
+public class RasterRenderer {
+
+    private BufferedImage image;
+
+    private int[] pixels;
+
+    private int width;
+
+    private int height;
+
+    public RasterRenderer(int width, int height) {
+        allocate(Math.max(1, width), Math.max(1, height));
+    }
+
+    /**
+     * Reallocates the raster if the size changed. The content is undefined afterwards.
+     *
+     * @return true if the raster was reallocated
+     */
+    public boolean resize(int width, int height) {
+        width = Math.max(1, width);
+        height = Math.max(1, height);
+        if (width == this.width && height == this.height) return false;
+
+        allocate(width, height);
+        return true;
+    }
+
+    public void clear(int argb) {
+        Arrays.fill(pixels, argb);
+    }
+
+    /**
+     * Fills a rectangle clipped to the raster, blending the color when it is translucent.
+     */
+    public void fillRect(int x, int y, int w, int h, int argb) {
+        int x0 = Math.max(0, x), y0 = Math.max(0, y);
+        int x1 = Math.min(width, x + w), y1 = Math.min(height, y + h);
+        if (x0 >= x1 || y0 >= y1) return;
+
+        int alpha = argb >>> 24;
+        for (int row = y0; row < y1; row++) {
+            int offset = row * width;
+            if (alpha == 0xFF) {
+                Arrays.fill(pixels, offset + x0, offset + x1, argb);
+            } else {
+                for (int i = offset + x0; i < offset + x1; i++) {
+                    pixels[i] = blend(pixels[i], argb, alpha);
+                }
+            }
+        }
+    }
+
+    /**
+     * Copies the pixels of a raster with the same size into this one.
+     */
+    public void copyFrom(RasterRenderer other) {
+        if (other.width != width || other.height != height)
+            throw new IllegalArgumentException("Raster size mismatch");
+        System.arraycopy(other.pixels, 0, pixels, 0, pixels.length);
+    }
+
+    /**
+     * Creates graphics for drawing text or shapes onto the raster, the caller must dispose it.
+     */
+    public Graphics2D createGraphics() {
+        Graphics2D g = image.createGraphics();
+        g.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+        return g;
+    }
+
+    public void write(File file) throws IOException {
+        ImageIO.write(image, "png", file);
+    }
+
+    public BufferedImage image() {
+        return image;
+    }
+
+    public int width() {
+        return width;
+    }
+
+    public int height() {
+        return height;
+    }
+
+    private void allocate(int width, int height) {
+        this.width = width;
+        this.height = height;
+        this.image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        this.pixels = ((DataBufferInt) image.getRaster().getDataBuffer()).getData();
+    }
+
+    private static int blend(int dst, int src, int alpha) {
+        int inv = 0xFF - alpha;
+        int r = (((src >> 16) & 0xFF) * alpha + ((dst >> 16) & 0xFF) * inv) / 0xFF;
+        int g = (((src >> 8) & 0xFF) * alpha + ((dst >> 8) & 0xFF) * inv) / 0xFF;
+        int b = ((src & 0xFF) * alpha + (dst & 0xFF) * inv) / 0xFF;
+        return 0xFF000000 | (r << 16) | (g << 8) | b;
+    }
+}
@@ -16,17 +16,27 @@ public class VertexFrame extends JFrame {
 
     private static final int DEFAULT_DELAY = 32;
 
+    public static final double DEFAULT_SPEED = 0.1;
+
+    public static final double DEFAULT_SCALE = 15;
+
+    public static final double DEFAULT_STEP = 0.1;
+
     private final JPanel controls = new JPanel();
 
     private final Timer timer = new Timer(DEFAULT_DELAY, e -> this.preview.updateAnimation());
 
-    public boolean paused = false;
+    private final Thread simulation = new Thread(this::simulate, "VertexFX Simulation");
 
-    public double speed = 0.1;
+    private volatile int delay = DEFAULT_DELAY;
 
-    public double scale = 15;
+    public volatile boolean paused = false;
 
-    public double step = speed;
+    public volatile double speed = DEFAULT_SPEED;
+
+    public double scale = DEFAULT_SCALE;
+
+    public double step = DEFAULT_STEP;
 
     private PreviewPanel preview;
 
@@ -76,6 +86,7 @@ public class VertexFrame extends JFrame {
         delaySlider.addChangeListener(e -> {
             int delay = delaySlider.getValue();
             delayLabel.setText("Delay: " + delay);
+            this.delay = delay;
             timer.setDelay(delay);
         });
 
@@ -94,6 +105,8 @@ public class VertexFrame extends JFrame {
             stepLabel.setText("Step: " + this.step);
         });
 
+        simulation.setDaemon(true);
+
         setLocationRelativeTo(null);
     }
 
@@ -101,7 +114,26 @@ public class VertexFrame extends JFrame {
         pack();
         setVisible(true);
 
-        if (this.preview != null) timer.start();
+        if (this.preview != null) {
+            simulation.start();
+            timer.start();
+        }
+    }
+
+    /**
+     * Simulation loop, advances the preview off the Swing thread and hands frames over to it.
+     */
+    private void simulate() {
+        while (!Thread.currentThread().isInterrupted()) {
+            preview.simulate();
+
+            try {
+                // a zero delay would spin the loop on a full core
+                Thread.sleep(Math.max(1, delay));
+            } catch (InterruptedException e) {
+                return;
+            }
+        }
     }
 
     public void addPreview(PreviewPanel preview) {